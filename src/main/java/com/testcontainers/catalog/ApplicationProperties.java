@@ -1,6 +1,13 @@
 package com.testcontainers.catalog;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -9,4 +16,33 @@ import org.springframework.validation.annotation.Validated;
 public record ApplicationProperties(
         @NotEmpty String productImagesBucketName,
         @NotEmpty String productImageUpdatesTopic,
-        @NotEmpty String inventoryServiceUrl) {}
+        @NotEmpty String productChangesTopic,
+        @NotEmpty String inventoryServiceUrl,
+        @NotNull @Valid ConcurrencyLimitProperties concurrencyLimit,
+        @NotNull @Valid InventoryBatchProperties inventoryBatch,
+        @NotNull @Valid PartitionMigrationProperties partitionMigration,
+        @NotNull @Valid ProductChangesProperties productChanges,
+        @NotNull @Valid ExportProperties export) {
+
+    public record ConcurrencyLimitProperties(
+            @NotNull Duration retryAfter, @NotEmpty Map<String, @Valid OperationLimit> operations) {}
+
+    public record OperationLimit(
+            @Positive int initialLimit,
+            @Positive int minLimit,
+            @Positive int maxLimit,
+            @NotNull Duration latencyThreshold,
+            @DecimalMin("0.1") @DecimalMax("1.0") double backoffRatio) {}
+
+    public record InventoryBatchProperties(@NotNull Duration window, @Positive int maxSize) {}
+
+    public record PartitionMigrationProperties(@Positive int batchSize, @NotNull Duration pauseBetweenBatches) {}
+
+    public record ProductChangesProperties(
+            @Positive int replaySize,
+            @Positive int subscriberBufferSize,
+            @Positive int maxSubscribers,
+            @NotNull Duration heartbeatInterval) {}
+
+    public record ExportProperties(@Positive int fetchSize, @NotNull Duration watermarkOverlap) {}
+}
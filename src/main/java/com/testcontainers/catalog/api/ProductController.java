@@ -1,34 +1,57 @@
 package com.testcontainers.catalog.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.config.ConcurrencyLimited;
 import com.testcontainers.catalog.domain.ProductNotFoundException;
 import com.testcontainers.catalog.domain.ProductService;
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
 import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.events.ProductChangeBroadcaster;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/products")
 class ProductController {
+    private static final String EXPORT_WATERMARK_HEADER = "X-Export-Watermark";
+
     private final ProductService productService;
+    private final ProductChangeBroadcaster productChangeBroadcaster;
+    private final ObjectMapper objectMapper;
 
-    ProductController(ProductService productService) {
+    ProductController(
+            ProductService productService,
+            ProductChangeBroadcaster productChangeBroadcaster,
+            ObjectMapper objectMapper) {
         this.productService = productService;
+        this.productChangeBroadcaster = productChangeBroadcaster;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
+    @ConcurrencyLimited("creates")
     ResponseEntity<Void> createProduct(@Validated @RequestBody CreateProductRequest request) {
         productService.createProduct(request);
         URI uri = ServletUriComponentsBuilder.fromCurrentContextPath()
@@ -38,19 +61,53 @@ class ProductController {
         return ResponseEntity.created(uri).build();
     }
 
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamProductChanges(
+            @RequestParam(name = "codes", required = false) Set<String> codes,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return productChangeBroadcaster.subscribe(codes, lastEventId);
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    void exportProducts(
+            @RequestParam(name = "updated-since", required = false) Instant updatedSince,
+            @RequestParam(name = "availability", defaultValue = "false") boolean includeAvailability,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response)
+            throws IOException {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        // set before streaming starts, once the body is flushed the headers are committed
+        response.setHeader(EXPORT_WATERMARK_HEADER, productService.nextExportWatermark().toString());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        try (OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream()) : response.getOutputStream()) {
+            productService.exportProducts(updatedSince, includeAvailability, product -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(product));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
     @GetMapping("/{code}")
+    @ConcurrencyLimited("reads")
     ResponseEntity<Product> getProductByCode(@PathVariable String code) {
         var product = productService.getProductByCode(code).orElseThrow(() -> ProductNotFoundException.withCode(code));
         return ResponseEntity.ok(product);
     }
 
     @PostMapping("/{code}/image")
+    @ConcurrencyLimited("image-uploads")
     ResponseEntity<Map<String, String>> uploadProductImage(
-            @PathVariable String code, @RequestParam("file") MultipartFile file) throws IOException {
+            @PathVariable String code, @RequestParam("file") MultipartFile file) {
         var filename = file.getOriginalFilename();
         var extn = filename.substring(filename.lastIndexOf("."));
-        var imageName = code + extn;
-        productService.uploadProductImage(code, imageName, file.getInputStream());
+        var imageName = productService.uploadProductImage(code, extn, file);
         Map<String, String> response = Map.of("status", "success", "filename", imageName);
         return ResponseEntity.ok(response);
     }
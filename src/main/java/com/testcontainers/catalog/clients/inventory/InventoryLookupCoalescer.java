@@ -0,0 +1,138 @@
+package com.testcontainers.catalog.clients.inventory;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent inventory lookups in front of {@link InventoryServiceClient}.
+ * Lookups for a code that is already in flight share the pending result, and distinct codes
+ * requested within the configured window are fetched with a single bulk call.
+ */
+@Component
+public class InventoryLookupCoalescer {
+    private static final Logger log = LoggerFactory.getLogger(InventoryLookupCoalescer.class);
+
+    private final InventoryServiceClient inventoryServiceClient;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Map<String, CompletableFuture<ProductInventory>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("inventory-batch-scheduler").daemon().factory());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter coalescedLookups;
+    private final DistributionSummary batchFillRatio;
+
+    private List<String> pendingCodes = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public InventoryLookupCoalescer(
+            InventoryServiceClient inventoryServiceClient,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.inventoryServiceClient = inventoryServiceClient;
+        this.window = properties.inventoryBatch().window();
+        this.maxBatchSize = properties.inventoryBatch().maxSize();
+        this.coalescedLookups = Counter.builder("catalog.inventory.lookups.coalesced")
+                .description("Inventory lookups served by an already in-flight lookup for the same code")
+                .register(meterRegistry);
+        this.batchFillRatio = DistributionSummary.builder("catalog.inventory.batch.fill-ratio")
+                .description("Number of codes per inventory call relative to the maximum batch size")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<ProductInventory> getInventory(String code) {
+        CompletableFuture<ProductInventory> future = new CompletableFuture<>();
+        CompletableFuture<ProductInventory> existing = inFlight.putIfAbsent(code, future);
+        if (existing != null) {
+            coalescedLookups.increment();
+            return existing;
+        }
+        enqueue(code);
+        return future;
+    }
+
+    private synchronized void enqueue(String code) {
+        pendingCodes.add(code);
+        if (pendingCodes.size() >= maxBatchSize) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (pendingCodes.isEmpty()) {
+            return;
+        }
+        List<String> codes = pendingCodes;
+        pendingCodes = new ArrayList<>();
+        batchFillRatio.record((double) codes.size() / maxBatchSize);
+        executor.execute(() -> fetch(codes));
+    }
+
+    private void fetch(List<String> codes) {
+        try {
+            if (codes.size() == 1) {
+                String code = codes.getFirst();
+                complete(code, inventoryServiceClient.getInventory(code));
+                return;
+            }
+            Map<String, ProductInventory> inventories = inventoryServiceClient.getInventories(codes).stream()
+                    .collect(Collectors.toMap(ProductInventory::code, Function.identity(), (a, b) -> a));
+            for (String code : codes) {
+                ProductInventory inventory = inventories.get(code);
+                if (inventory != null) {
+                    complete(code, inventory);
+                } else {
+                    fail(code, new IllegalStateException("No inventory returned for code " + code));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Inventory lookup failed for codes: {}", codes, e);
+            codes.forEach(code -> fail(code, e));
+        }
+    }
+
+    private void complete(String code, ProductInventory inventory) {
+        CompletableFuture<ProductInventory> future = inFlight.remove(code);
+        if (future != null) {
+            future.complete(inventory);
+        }
+    }
+
+    private void fail(String code, Throwable cause) {
+        CompletableFuture<ProductInventory> future = inFlight.remove(code);
+        if (future != null) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+}
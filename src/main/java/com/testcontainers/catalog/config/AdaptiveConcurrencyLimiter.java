@@ -0,0 +1,45 @@
+package com.testcontainers.catalog.config;
+
+import com.testcontainers.catalog.ApplicationProperties.OperationLimit;
+import java.time.Duration;
+
+/**
+ * AIMD concurrency limiter: the limit grows by roughly one per limit-sized window of fast requests
+ * and shrinks multiplicatively when a request is slower than the latency threshold or fails.
+ */
+class AdaptiveConcurrencyLimiter {
+    private final OperationLimit config;
+    private double limit;
+    private int inFlight;
+
+    AdaptiveConcurrencyLimiter(OperationLimit config) {
+        this.config = config;
+        this.limit = Math.clamp(config.initialLimit(), config.minLimit(), config.maxLimit());
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void release(Duration latency, boolean failed) {
+        int concurrency = inFlight--;
+        if (failed || latency.compareTo(config.latencyThreshold()) > 0) {
+            limit = Math.max(config.minLimit(), limit * config.backoffRatio());
+        } else if (concurrency * 2 >= limit) {
+            // only probe upwards when the current limit is actually being used
+            limit = Math.min(config.maxLimit(), limit + 1.0 / limit);
+        }
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,16 @@
+package com.testcontainers.catalog.config;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String operation, Duration retryAfter) {
+        super("Too many concurrent " + operation + " requests, please retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
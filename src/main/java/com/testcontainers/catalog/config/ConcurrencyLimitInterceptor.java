@@ -0,0 +1,91 @@
+package com.testcontainers.catalog.config;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@ConditionalOnProperty(prefix = "application.concurrency-limit", name = "enabled", matchIfMissing = true)
+class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new HashMap<>();
+    private final Map<String, Counter> rejections = new HashMap<>();
+    private final Duration retryAfter;
+
+    ConcurrencyLimitInterceptor(
+            ApplicationProperties properties, ServerProperties serverProperties, MeterRegistry meterRegistry) {
+        this.retryAfter = properties.concurrencyLimit().retryAfter();
+        // Latency is only measured once a request has a worker thread, so the limits must never admit more
+        // requests than there are threads, otherwise the excess queues in front of them where nothing is shed.
+        int maxLimits = properties.concurrencyLimit().operations().values().stream()
+                .mapToInt(ApplicationProperties.OperationLimit::maxLimit)
+                .sum();
+        int maxThreads = serverProperties.getTomcat().getThreads().getMax();
+        if (maxLimits > maxThreads) {
+            throw new IllegalStateException("The concurrency max-limits add up to " + maxLimits
+                    + ", more than the " + maxThreads + " threads of server.tomcat.threads.max");
+        }
+        properties.concurrencyLimit().operations().forEach((operation, config) -> {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config);
+            limiters.put(operation, limiter);
+            Gauge.builder("catalog.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+            Gauge.builder("catalog.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+            rejections.put(
+                    operation,
+                    Counter.builder("catalog.concurrency.rejected")
+                            .tag("operation", operation)
+                            .register(meterRegistry));
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConcurrencyLimited concurrencyLimited = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        if (concurrencyLimited == null) {
+            return true;
+        }
+        String operation = concurrencyLimited.value();
+        AdaptiveConcurrencyLimiter limiter = limiters.get(operation);
+        if (limiter == null) {
+            throw new IllegalStateException("No concurrency limit configured for operation " + operation);
+        }
+        if (!limiter.tryAcquire()) {
+            rejections.get(operation).increment();
+            throw new ConcurrencyLimitExceededException(operation, retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        Duration latency = Duration.ofNanos(System.nanoTime() - permit.startNanos());
+        permit.limiter().release(latency, ex != null || response.getStatus() >= 500);
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {}
+}
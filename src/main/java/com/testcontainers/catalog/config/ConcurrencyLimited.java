@@ -0,0 +1,16 @@
+package com.testcontainers.catalog.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method as guarded by the adaptive concurrency limit of the given operation.
+ * The operation name refers to a key under {@code application.concurrency-limit.operations}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+    String value();
+}
@@ -6,6 +6,8 @@ public interface FileStorageService {
 
     void createBucket(String bucketName);
 
+    boolean exists(String filename);
+
     void upload(String filename, InputStream inputStream);
 
     String getPreSignedURL(String filename);
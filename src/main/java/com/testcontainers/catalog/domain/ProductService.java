@@ -2,8 +2,10 @@ package com.testcontainers.catalog.domain;
 
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
 import com.testcontainers.catalog.domain.models.Product;
-import java.io.InputStream;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.core.io.InputStreamSource;
 
 public interface ProductService {
 
@@ -11,7 +13,23 @@ public interface ProductService {
 
     Optional<Product> getProductByCode(String code);
 
-    void uploadProductImage(String code, String imageName, InputStream inputStream);
+    /**
+     * Stores the image under a key derived from its SHA-256 content hash and returns that key.
+     * Identical images are stored only once, and no update is published if the product already uses the image.
+     */
+    String uploadProductImage(String code, String extension, InputStreamSource image);
 
     void updateProductImage(String code, String image);
+
+    /**
+     * Passes every product updated at or after updatedSince (all products if null) to the consumer,
+     * reading them with a database cursor so that memory use does not grow with the catalog size.
+     */
+    void exportProducts(Instant updatedSince, boolean includeAvailability, Consumer<Product> consumer);
+
+    /**
+     * Returns the updatedSince to use for the next incremental export. It must be taken before the export starts,
+     * and reaches back by the configured overlap because updated_at is stamped before the change commits.
+     */
+    Instant nextExportWatermark();
 }
@@ -1,15 +1,36 @@
 package com.testcontainers.catalog.domain.internal;
 
-import com.testcontainers.catalog.clients.inventory.InventoryServiceClient;
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.clients.inventory.InventoryLookupCoalescer;
+import com.testcontainers.catalog.clients.inventory.ProductInventory;
 import com.testcontainers.catalog.domain.FileStorageService;
 import com.testcontainers.catalog.domain.ProductService;
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
 import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.domain.models.ProductChangedEvent;
 import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -20,19 +41,37 @@ class DefaultProductService implements ProductService {
     private static final Logger log = LoggerFactory.getLogger(DefaultProductService.class);
 
     private final ProductRepository productRepository;
-    private final InventoryServiceClient inventoryServiceClient;
+    private final ProductExportRepository productExportRepository;
+    private final InventoryLookupCoalescer inventoryLookupCoalescer;
     private final FileStorageService fileStorageService;
     private final ProductEventPublisher productEventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int availabilityLookahead;
+    private final Duration exportWatermarkOverlap;
+    private final Counter storedImages;
+    private final Counter deduplicatedImages;
+    private final Counter unchangedImages;
 
     public DefaultProductService(
             ProductRepository productRepository,
-            InventoryServiceClient inventoryServiceClient,
+            ProductExportRepository productExportRepository,
+            InventoryLookupCoalescer inventoryLookupCoalescer,
             FileStorageService fileStorageService,
-            ProductEventPublisher productEventPublisher) {
+            ProductEventPublisher productEventPublisher,
+            ApplicationEventPublisher applicationEventPublisher,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry) {
         this.productRepository = productRepository;
-        this.inventoryServiceClient = inventoryServiceClient;
+        this.productExportRepository = productExportRepository;
+        this.inventoryLookupCoalescer = inventoryLookupCoalescer;
         this.fileStorageService = fileStorageService;
         this.productEventPublisher = productEventPublisher;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.availabilityLookahead = properties.inventoryBatch().maxSize();
+        this.exportWatermarkOverlap = properties.export().watermarkOverlap();
+        this.storedImages = meterRegistry.counter("catalog.product-images.uploads", "object", "stored");
+        this.deduplicatedImages = meterRegistry.counter("catalog.product-images.uploads", "object", "deduplicated");
+        this.unchangedImages = meterRegistry.counter("catalog.product-images.unchanged");
     }
 
     public void createProduct(CreateProductRequest request) {
@@ -43,6 +82,8 @@ class DefaultProductService implements ProductService {
         entity.setPrice(request.price());
 
         productRepository.save(entity);
+        applicationEventPublisher.publishEvent(
+                new ProductChangedEvent(request.code(), ProductChangedEvent.Type.CREATED));
     }
 
     public Optional<Product> getProductByCode(String code) {
@@ -50,22 +91,69 @@ class DefaultProductService implements ProductService {
         if (productEntity.isEmpty()) {
             return Optional.empty();
         }
-        return productEntity.map(this::toProduct);
+        return productEntity.map(entity -> toProduct(entity, isProductAvailable(entity.getCode())));
     }
 
-    public void uploadProductImage(String code, String imageName, InputStream inputStream) {
-        fileStorageService.upload(imageName, inputStream);
+    public String uploadProductImage(String code, String extension, InputStreamSource image) {
+        String imageName = sha256(image) + extension;
+        if (fileStorageService.exists(imageName)) {
+            deduplicatedImages.increment();
+            log.debug("Image {} already stored, skipping upload", imageName);
+        } else {
+            try (InputStream inputStream = image.getInputStream()) {
+                fileStorageService.upload(imageName, inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            storedImages.increment();
+        }
+
+        Optional<ProductEntity> product = productRepository.findByCode(code);
+        if (product.isPresent() && Objects.equals(product.get().getImage(), imageName)) {
+            unchangedImages.increment();
+            log.info("Product image for code: {} is unchanged", code);
+            return imageName;
+        }
         productEventPublisher.publish(new ProductImageUploadedEvent(code, imageName));
         log.info("Published event to update product image for code: {}", code);
+        return imageName;
     }
 
     public void updateProductImage(String code, String image) {
-        productRepository.updateProductImage(code, image);
+        productRepository.updateProductImage(code, image, Instant.now());
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(code, ProductChangedEvent.Type.IMAGE_UPDATED));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProducts(Instant updatedSince, boolean includeAvailability, Consumer<Product> consumer) {
+        if (!includeAvailability) {
+            productExportRepository.forEachProduct(updatedSince, entity -> consumer.accept(toProduct(entity, null)));
+            return;
+        }
+        // keep a window of availability lookups in flight so that the coalescer can batch them
+        Deque<PendingProduct> pending = new ArrayDeque<>();
+        productExportRepository.forEachProduct(updatedSince, entity -> {
+            pending.addLast(new PendingProduct(entity, inventoryLookupCoalescer.getInventory(entity.getCode())));
+            if (pending.size() >= availabilityLookahead) {
+                consumer.accept(toProduct(pending.removeFirst()));
+            }
+        });
+        while (!pending.isEmpty()) {
+            consumer.accept(toProduct(pending.removeFirst()));
+        }
+    }
+
+    public Instant nextExportWatermark() {
+        return Instant.now().minus(exportWatermarkOverlap);
     }
 
     private boolean isProductAvailable(String code) {
+        return isProductAvailable(inventoryLookupCoalescer.getInventory(code));
+    }
+
+    private boolean isProductAvailable(CompletableFuture<ProductInventory> inventory) {
         try {
-            return inventoryServiceClient.getInventory(code).quantity() > 0;
+            return inventory.join().quantity() > 0;
         } catch (Exception e) {
             log.error("Error while calling inventory service", e);
             // business decision is to show as available if inventory service is down
@@ -73,7 +161,23 @@ class DefaultProductService implements ProductService {
         }
     }
 
-    private Product toProduct(ProductEntity entity) {
+    private static String sha256(InputStreamSource image) {
+        try (InputStream inputStream = image.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            new DigestInputStream(inputStream, digest).transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Product toProduct(PendingProduct pending) {
+        return toProduct(pending.entity(), isProductAvailable(pending.inventory()));
+    }
+
+    private Product toProduct(ProductEntity entity, Boolean available) {
         return new Product(
                 entity.getId(),
                 entity.getCode(),
@@ -81,6 +185,9 @@ class DefaultProductService implements ProductService {
                 entity.getDescription(),
                 StringUtils.hasText(entity.getImage()) ? fileStorageService.getPreSignedURL(entity.getImage()) : null,
                 entity.getPrice(),
-                isProductAvailable(entity.getCode()));
+                available,
+                entity.getUpdatedAt());
     }
+
+    private record PendingProduct(ProductEntity entity, CompletableFuture<ProductInventory> inventory) {}
 }
@@ -5,17 +5,21 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import java.time.Instant;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "products")
 class ProductEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_generator")
+    @SequenceGenerator(name = "products_id_generator", sequenceName = "products_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -34,6 +38,10 @@ class ProductEntity {
     @Column(nullable = false)
     private BigDecimal price;
 
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+
     public ProductEntity() {}
 
     public ProductEntity(Long id, String code, String name, String description, String image, BigDecimal price) {
@@ -92,4 +100,12 @@ class ProductEntity {
     public void setPrice(BigDecimal price) {
         this.price = price;
     }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
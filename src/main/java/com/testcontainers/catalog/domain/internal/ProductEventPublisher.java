@@ -1,9 +1,11 @@
 package com.testcontainers.catalog.domain.internal;
 
 import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.models.ProductChangedEvent;
 import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 class ProductEventPublisher {
@@ -18,4 +20,10 @@ class ProductEventPublisher {
     public void publish(ProductImageUploadedEvent event) {
         kafkaTemplate.send(properties.productImageUpdatesTopic(), event.code(), event);
     }
+
+    // published only once the change is committed, so subscribers never see rolled back products
+    @TransactionalEventListener
+    public void publish(ProductChangedEvent event) {
+        kafkaTemplate.send(properties.productChangesTopic(), event.code(), event);
+    }
 }
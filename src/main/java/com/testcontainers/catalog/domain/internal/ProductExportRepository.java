@@ -0,0 +1,41 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads products with a server-side cursor for exports. PostgreSQL only uses a cursor when a fetch size
+ * is set and the query runs inside a transaction, so callers must be transactional.
+ */
+@Repository
+class ProductExportRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductExportRepository(DataSource dataSource, ApplicationProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.export().fetchSize());
+    }
+
+    void forEachProduct(Instant updatedSince, Consumer<ProductEntity> consumer) {
+        jdbcTemplate.query(
+                "select id, code, name, description, image, price, updated_at from products where updated_at >= ? "
+                        + "order by updated_at",
+                rs -> {
+                    ProductEntity entity = new ProductEntity(
+                            rs.getLong("id"),
+                            rs.getString("code"),
+                            rs.getString("name"),
+                            rs.getString("description"),
+                            rs.getString("image"),
+                            rs.getBigDecimal("price"));
+                    entity.setUpdatedAt(rs.getTimestamp("updated_at").toInstant());
+                    consumer.accept(entity);
+                },
+                Timestamp.from(updatedSince == null ? Instant.EPOCH : updatedSince));
+    }
+}
@@ -0,0 +1,102 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.ApplicationProperties.PartitionMigrationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Copies the existing rows of products into products_partitioned in small batches while the
+ * application keeps serving traffic, then swaps the two tables in a single short transaction.
+ * Rows written during the copy are upserted by the trigger created in V2_1__partitioned_products.sql,
+ * and rows deleted during the copy are removed again under the exclusive lock taken for the swap.
+ */
+@Component
+@Profile("partition-migration")
+class ProductPartitionMigrator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ProductPartitionMigrator.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionMigrationProperties properties;
+
+    @Autowired
+    ProductPartitionMigrator(
+            JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ApplicationProperties properties) {
+        this(jdbcTemplate, transactionTemplate, properties.partitionMigration());
+    }
+
+    ProductPartitionMigrator(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PartitionMigrationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        migrate();
+    }
+
+    void migrate() throws InterruptedException {
+        if (jdbcTemplate.queryForObject("select to_regclass('products_partitioned') is null", Boolean.class)) {
+            log.info("Table products_partitioned not found, nothing to migrate");
+            return;
+        }
+        long copied = copyRows();
+        log.info("Copied {} products into products_partitioned, swapping tables", copied);
+        swapTables();
+        log.info("Products table is now hash-partitioned by code");
+    }
+
+    private long copyRows() throws InterruptedException {
+        long lastId = 0;
+        long copied = 0;
+        while (true) {
+            Long upperId = jdbcTemplate.queryForObject(
+                    "select max(id) from (select id from products where id > ? order by id limit ?) batch",
+                    Long.class,
+                    lastId,
+                    properties.batchSize());
+            if (upperId == null) {
+                return copied;
+            }
+            copied += jdbcTemplate.update(
+                    "insert into products_partitioned select * from products where id > ? and id <= ? "
+                            + "on conflict do nothing",
+                    lastId,
+                    upperId);
+            lastId = upperId;
+            log.debug("Copied products up to id {}", lastId);
+            Thread.sleep(properties.pauseBetweenBatches());
+        }
+    }
+
+    private void swapTables() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("lock table products in access exclusive mode");
+            // rows deleted while a copy batch was inserting them were brought back by that batch
+            int resurrected = jdbcTemplate.update(
+                    "delete from products_partitioned p using products_partition_deletes d where p.code = d.code "
+                            + "and not exists (select 1 from products o where o.code = d.code)");
+            log.info("Removed {} products deleted during the copy", resurrected);
+            jdbcTemplate.execute("drop trigger products_sync_partitioned on products");
+            jdbcTemplate.execute("drop function sync_products_partitioned()");
+            jdbcTemplate.execute("drop function refresh_sync_products_partitioned()");
+            jdbcTemplate.execute("drop table products_partition_deletes");
+            jdbcTemplate.execute("alter table products rename to products_unpartitioned");
+            jdbcTemplate.execute("alter table products_partitioned rename to products");
+            // keep the sequence alive when products_unpartitioned is dropped later on
+            jdbcTemplate.execute("alter sequence products_id_seq owned by products.id");
+        });
+    }
+}
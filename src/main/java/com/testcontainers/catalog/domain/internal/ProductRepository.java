@@ -1,15 +1,19 @@
 package com.testcontainers.catalog.domain.internal;
 
+import java.time.Instant;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+// With the partitioned-catalog layout products is hash-partitioned by code,
+// so queries should filter on code to be pruned to a single partition.
 interface ProductRepository extends JpaRepository<ProductEntity, Long> {
     Optional<ProductEntity> findByCode(String code);
 
     @Modifying
-    @Query("update ProductEntity p set p.image = :image where p.code = :code")
-    void updateProductImage(@Param("code") String code, @Param("image") String image);
+    @Query("update ProductEntity p set p.image = :image, p.updatedAt = :updatedAt where p.code = :code")
+    void updateProductImage(
+            @Param("code") String code, @Param("image") String image, @Param("updatedAt") Instant updatedAt);
 }
@@ -8,15 +8,19 @@ import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 @Service
 class S3FileStorageService implements FileStorageService {
     private static final Logger log = LoggerFactory.getLogger(S3FileStorageService.class);
     private final S3Template s3Template;
+    private final S3Client s3Client;
     private final ApplicationProperties properties;
 
-    public S3FileStorageService(S3Template s3Template, ApplicationProperties properties) {
+    public S3FileStorageService(S3Template s3Template, S3Client s3Client, ApplicationProperties properties) {
         this.s3Template = s3Template;
+        this.s3Client = s3Client;
         this.properties = properties;
     }
 
@@ -24,6 +28,15 @@ class S3FileStorageService implements FileStorageService {
         s3Template.createBucket(bucketName);
     }
 
+    public boolean exists(String filename) {
+        try {
+            s3Client.headObject(request -> request.bucket(properties.productImagesBucketName()).key(filename));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
     public void upload(String filename, InputStream inputStream) {
         log.debug("Uploading file with name {} to S3", filename);
         try {
@@ -1,6 +1,15 @@
 package com.testcontainers.catalog.domain.models;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
+// available is null when availability was not looked up, e.g. in exports without availability enrichment
 public record Product(
-        Long id, String code, String name, String description, String imageUrl, BigDecimal price, boolean available) {}
+        Long id,
+        String code,
+        String name,
+        String description,
+        String imageUrl,
+        BigDecimal price,
+        Boolean available,
+        Instant updatedAt) {}
@@ -0,0 +1,8 @@
+package com.testcontainers.catalog.domain.models;
+
+public record ProductChangedEvent(String code, Type type) {
+    public enum Type {
+        CREATED,
+        IMAGE_UPDATED
+    }
+}
@@ -0,0 +1,201 @@
+package com.testcontainers.catalog.events;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.ApplicationProperties.ProductChangesProperties;
+import com.testcontainers.catalog.config.ConcurrencyLimitExceededException;
+import com.testcontainers.catalog.domain.models.ProductChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans out product changes to Server-Sent Events subscribers.
+ * Every instance consumes the product-changes topic with its own consumer group so that each node
+ * sees all changes. Each subscriber gets a bounded buffer drained by its own virtual thread,
+ * and subscribers that fall behind by more than the buffer size are disconnected.
+ * Only that writer thread touches the emitter, so dropping a subscriber whose writer is stuck in a
+ * blocking send never holds up the fan-out to the others.
+ */
+@Component
+public class ProductChangeBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeBroadcaster.class);
+
+    private final ProductChangesProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<Change> recentChanges = new ArrayDeque<>();
+    private final ThreadFactory writerThreadFactory = Thread.ofVirtual().name("product-changes-", 0).factory();
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("product-changes-heartbeat").daemon().factory());
+    private final Counter droppedSubscribers;
+    private final Counter rejectedSubscribers;
+    private final Duration retryAfter;
+
+    public ProductChangeBroadcaster(ApplicationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.productChanges();
+        this.retryAfter = properties.concurrencyLimit().retryAfter();
+        long heartbeatMillis = this.properties.heartbeatInterval().toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(
+                this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        meterRegistry.gaugeCollectionSize("catalog.product-changes.subscribers", Tags.empty(), subscribers);
+        this.droppedSubscribers = Counter.builder("catalog.product-changes.dropped-subscribers")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+        this.rejectedSubscribers =
+                meterRegistry.counter("catalog.concurrency.rejected", "operation", "product-changes");
+    }
+
+    /**
+     * Subscribes to product changes, optionally restricted to the given codes.
+     * When lastEventId is still within the replay window, the changes after it are sent first;
+     * otherwise a "reset" event tells the client to reload the products it is interested in.
+     * Subscribers beyond the configured maximum are rejected with a ConcurrencyLimitExceededException.
+     */
+    public SseEmitter subscribe(Set<String> codes, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter, codes == null ? Set.of() : codes);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        synchronized (this) {
+            if (subscribers.size() >= properties.maxSubscribers()) {
+                rejectedSubscribers.increment();
+                throw new ConcurrencyLimitExceededException("product-changes", retryAfter);
+            }
+            if (lastEventId != null) {
+                List<Change> replay = changesAfter(lastEventId);
+                if (replay == null) {
+                    subscriber.offer(SseEmitter.event().name("reset").data(lastEventId));
+                } else {
+                    replay.forEach(subscriber::offer);
+                }
+            }
+            if (!subscriber.closed) {
+                subscribers.add(subscriber);
+            }
+        }
+        // started even when the replay already overflowed the buffer, so that the writer completes the emitter
+        subscriber.writer.start();
+        return emitter;
+    }
+
+    @KafkaListener(
+            id = "product-changes-broadcaster",
+            topics = "${application.product-changes-topic}",
+            groupId = "catalog-changes-${random.uuid}")
+    public synchronized void handle(
+            @Payload ProductChangedEvent event,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset) {
+        Change change = new Change(partition + "-" + offset, event);
+        recentChanges.addLast(change);
+        if (recentChanges.size() > properties.replaySize()) {
+            recentChanges.removeFirst();
+        }
+        subscribers.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    private List<Change> changesAfter(String lastEventId) {
+        List<Change> changes = new ArrayList<>();
+        boolean found = false;
+        for (Change change : recentChanges) {
+            if (found) {
+                changes.add(change);
+            } else if (change.id().equals(lastEventId)) {
+                found = true;
+            }
+        }
+        return found ? changes : null;
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    private record Change(String id, ProductChangedEvent event) {}
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> codes;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final Thread writer;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Set<String> codes) {
+            this.emitter = emitter;
+            this.codes = codes;
+            this.buffer = new LinkedBlockingQueue<>(properties.subscriberBufferSize());
+            this.writer = writerThreadFactory.newThread(this::drain);
+        }
+
+        void offer(Change change) {
+            if (codes.isEmpty() || codes.contains(change.event().code())) {
+                offer(SseEmitter.event()
+                        .id(change.id())
+                        .name("product-changed")
+                        .data(change.event()));
+            }
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!closed && !buffer.offer(event)) {
+                log.debug("Disconnecting product changes subscriber that fell behind");
+                droppedSubscribers.increment();
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    emitter.send(buffer.take());
+                }
+            } catch (InterruptedException e) {
+                // woken up by close()
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Product changes subscriber disconnected: {}", e.getMessage());
+            } finally {
+                close();
+                buffer.clear();
+                emitter.complete();
+            }
+        }
+
+        // Never touches the emitter, a writer blocked in send() holds its lock until the write times out.
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            if (writer != Thread.currentThread()) {
+                writer.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- ProductEntity allocates ids from products_id_seq in blocks of 50 (pooled optimizer),
+-- so the sequence increment has to match the allocation size.
+alter sequence products_id_seq increment by 50;
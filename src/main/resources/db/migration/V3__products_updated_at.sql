@@ -0,0 +1,13 @@
+alter table products add column updated_at timestamptz not null default now();
+create index products_updated_at_idx on products (updated_at);
+
+-- keep the opt-in partitioned copy (see db/partitioning) in the same shape as products
+alter table if exists products_partitioned add column updated_at timestamptz not null default now();
+do $$
+begin
+    if to_regclass('products_partitioned') is not null then
+        create index products_partitioned_updated_at_idx on products_partitioned (updated_at);
+        perform refresh_sync_products_partitioned();
+    end if;
+end
+$$;
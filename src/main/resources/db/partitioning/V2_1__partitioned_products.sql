@@ -0,0 +1,67 @@
+-- Opt-in, enabled by the partitioned-catalog profile, which has to stay active once this has been applied.
+-- Creates a copy of products hash-partitioned by code and keeps it in sync with a trigger
+-- until ProductPartitionMigrator has copied the existing rows and swapped the two tables.
+-- Both tables must keep the same column order, so later migrations altering products
+-- have to apply the same change to products_partitioned if it exists.
+create table products_partitioned (like products including defaults) partition by hash (code);
+alter table products_partitioned add primary key (id, code);
+alter table products_partitioned add unique (code);
+
+do $$
+begin
+    for i in 0..${product_partitions} - 1 loop
+        execute format('create table products_p%s partition of products_partitioned for values with (modulus %s, remainder %s)',
+                       i, ${product_partitions}, i);
+    end loop;
+end
+$$;
+
+-- Codes deleted from products while the copy runs. A concurrent copy batch can bring such rows back,
+-- so ProductPartitionMigrator deletes them again while it holds the exclusive lock for the swap.
+create table products_partition_deletes (code varchar primary key);
+
+-- (Re)creates the sync trigger function. Its upsert lists every column of products, so migrations
+-- adding columns to products have to call this again.
+create function refresh_sync_products_partitioned() returns void as $refresh$
+declare
+    assignments text;
+begin
+    select string_agg(format('%1$I = excluded.%1$I', column_name), ', ' order by ordinal_position)
+    into assignments
+    from information_schema.columns
+    where table_schema = current_schema() and table_name = 'products' and column_name <> 'code';
+
+    execute format($fn$
+        create or replace function sync_products_partitioned() returns trigger as $body$
+        begin
+            if tg_op = 'DELETE' or (tg_op = 'UPDATE' and old.code <> new.code) then
+                delete from products_partitioned where code = old.code;
+                insert into products_partition_deletes values (old.code) on conflict do nothing;
+            end if;
+            if tg_op in ('INSERT', 'UPDATE') then
+                -- upsert: a row inserted by a copy batch that had not committed yet was not visible to
+                -- a delete, so it has to be overwritten once that batch commits
+                insert into products_partitioned select (new).* on conflict (code) do update set %s;
+                delete from products_partition_deletes where code = new.code;
+            end if;
+            return null;
+        end
+        $body$ language plpgsql
+    $fn$, assignments);
+end
+$refresh$ language plpgsql;
+
+select refresh_sync_products_partitioned();
+
+create trigger products_sync_partitioned
+    after insert or update or delete on products
+    for each row execute function sync_products_partitioned();
+
+-- indexes of products added by later migrations, when this one is applied out of order
+do $$
+begin
+    if exists (select 1 from information_schema.columns where table_name = 'products' and column_name = 'updated_at') then
+        create index products_partitioned_updated_at_idx on products_partitioned (updated_at);
+    end if;
+end
+$$;
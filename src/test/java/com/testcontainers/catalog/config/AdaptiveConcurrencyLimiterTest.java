@@ -0,0 +1,98 @@
+package com.testcontainers.catalog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.testcontainers.catalog.ApplicationProperties.OperationLimit;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(500);
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(new OperationLimit(10, 2, 20, Duration.ofMillis(100), 0.5));
+
+    @Test
+    void shouldRejectAcquiresAboveTheLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldGrowWhileFullyUsedRequestsStayFast() {
+        // each fully used window adds roughly half a permit
+        for (int round = 0; round < 5; round++) {
+            saturateAndRelease(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldNotGrowWhileMostOfTheLimitIsUnused() {
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldBackOffMultiplicativelyOnSlowRequests() {
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldBackOffMultiplicativelyOnFailedRequests() {
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotGrowAboveMaxLimit() {
+        for (int round = 0; round < 200; round++) {
+            saturateAndRelease(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldNotBackOffBelowMinLimit() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldClampInitialLimit() {
+        var tooHigh = new AdaptiveConcurrencyLimiter(new OperationLimit(50, 2, 20, Duration.ofMillis(100), 0.5));
+        var tooLow = new AdaptiveConcurrencyLimiter(new OperationLimit(1, 2, 20, Duration.ofMillis(100), 0.5));
+
+        assertThat(tooHigh.getLimit()).isEqualTo(20);
+        assertThat(tooLow.getLimit()).isEqualTo(2);
+    }
+
+    private void saturateAndRelease(Duration latency, boolean failed) {
+        int permits = 0;
+        while (limiter.tryAcquire()) {
+            permits++;
+        }
+        for (int i = 0; i < permits; i++) {
+            limiter.release(latency, failed);
+        }
+    }
+}
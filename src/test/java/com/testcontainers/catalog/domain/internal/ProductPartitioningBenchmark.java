@@ -0,0 +1,91 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties.PartitionMigrationProperties;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Measures lookup-by-code and single-row insert latency before and after migrating products
+ * to the hash-partitioned layout. Run it manually, optionally passing the number of rows to load.
+ */
+public class ProductPartitioningBenchmark {
+    private static final int SAMPLES = 10_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))) {
+            postgres.start();
+            var dataSource =
+                    new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+            var jdbcTemplate = new JdbcTemplate(dataSource);
+
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+            jdbcTemplate.update(
+                    "insert into products(code, name, price) "
+                            + "select 'B' || i, 'Product ' || i, 10 from generate_series(1, ?) i",
+                    rows);
+            jdbcTemplate.execute("analyze products");
+            measure("unpartitioned", jdbcTemplate, rows);
+
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration", "classpath:db/partitioning")
+                    .placeholders(Map.of("product_partitions", "16"))
+                    .outOfOrder(true)
+                    .load()
+                    .migrate();
+            long start = System.nanoTime();
+            new ProductPartitionMigrator(
+                            jdbcTemplate,
+                            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                            new PartitionMigrationProperties(10_000, Duration.ZERO))
+                    .migrate();
+            System.out.printf(
+                    "migrated %d rows in %d ms%n", rows, Duration.ofNanos(System.nanoTime() - start).toMillis());
+            jdbcTemplate.execute("analyze products");
+            measure("partitioned", jdbcTemplate, rows);
+        }
+    }
+
+    private static void measure(String layout, JdbcTemplate jdbcTemplate, int rows) {
+        long[] lookups = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String code = "B" + ThreadLocalRandom.current().nextInt(1, rows + 1);
+            long start = System.nanoTime();
+            jdbcTemplate.queryForMap("select * from products where code = ?", code);
+            lookups[i] = System.nanoTime() - start;
+        }
+        long[] inserts = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String code = layout + "-" + i;
+            long start = System.nanoTime();
+            jdbcTemplate.update("insert into products(code, name, price) values (?, ?, 10)", code, code);
+            inserts[i] = System.nanoTime() - start;
+        }
+        System.out.printf("%s lookup: %s%n", layout, summary(lookups));
+        System.out.printf("%s insert: %s%n", layout, summary(inserts));
+    }
+
+    private static String summary(long[] samples) {
+        Arrays.sort(samples);
+        return "p50=%dus p99=%dus max=%dus"
+                .formatted(
+                        samples[samples.length / 2] / 1_000,
+                        samples[(int) (samples.length * 0.99)] / 1_000,
+                        samples[samples.length - 1] / 1_000);
+    }
+}
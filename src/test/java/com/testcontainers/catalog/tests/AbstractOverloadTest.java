@@ -0,0 +1,93 @@
+package com.testcontainers.catalog.tests;
+
+import io.restassured.RestAssured;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+// Every request for a SLOW-* product spends INVENTORY_DELAY in the inventory lookup (see mocks-config.json) and the
+// server only has 8 worker threads, so CLIENTS concurrent clients are 3x what the server can serve without queueing.
+@Sql({"/test-data.sql", "/slow-products.sql"})
+@TestPropertySource(
+        properties = {
+            "server.tomcat.threads.max=8",
+            "server.tomcat.threads.min-spare=8",
+            "application.inventory-batch.max-size=1"
+        })
+abstract class AbstractOverloadTest extends BaseIntegrationTest {
+    static final int CLIENTS = 24;
+    static final int THREADS = 8;
+    static final Duration INVENTORY_DELAY = Duration.ofMillis(250);
+    static final Duration P99_BOUND = INVENTORY_DELAY.multipliedBy(2);
+
+    private static final Duration WARMUP = Duration.ofSeconds(1);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(5);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * Runs a closed-loop load where each client sends its next request as soon as the previous one completed,
+     * waiting for Retry-After when it was rejected. Only requests started after the warmup are recorded.
+     */
+    LoadResult runOverload() throws Exception {
+        List<Long> acceptedLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger rejectedWithoutRetryAfter = new AtomicInteger();
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long measureUntil = measureFrom + MEASUREMENT.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int client = 1; client <= CLIENTS; client++) {
+                URI uri = URI.create("http://localhost:%d/api/products/SLOW-%d".formatted(RestAssured.port, client));
+                clients.add(executor.submit(() -> {
+                    while (System.nanoTime() < measureUntil) {
+                        long start = System.nanoTime();
+                        HttpResponse<String> response = httpClient.send(
+                                HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+                        boolean measured = start >= measureFrom;
+                        if (response.statusCode() == 200) {
+                            if (measured) {
+                                acceptedLatencies.add(System.nanoTime() - start);
+                            }
+                        } else if (response.statusCode() == 503) {
+                            if (measured) {
+                                rejected.incrementAndGet();
+                            }
+                            var retryAfter = response.headers().firstValueAsLong("Retry-After");
+                            if (retryAfter.isEmpty()) {
+                                rejectedWithoutRetryAfter.incrementAndGet();
+                            }
+                            Thread.sleep(Duration.ofSeconds(retryAfter.orElse(1)));
+                        } else {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        }
+        return new LoadResult(acceptedLatencies, rejected.get(), rejectedWithoutRetryAfter.get());
+    }
+
+    record LoadResult(List<Long> acceptedLatencies, int rejected, int rejectedWithoutRetryAfter) {
+        Duration p99() {
+            List<Long> sorted = acceptedLatencies.stream().sorted().toList();
+            return Duration.ofNanos(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.testcontainers.catalog.tests;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.notNullValue;
+
+import io.restassured.http.ContentType;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+class ExportProductsTest extends BaseIntegrationTest {
+
+    @Test
+    void shouldExportAllProductsAsNdjson() {
+        String body = given().header("Accept-Encoding", "gzip")
+                .when()
+                .get("/api/products/export")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .extract()
+                .asString();
+
+        assertThat(body.lines())
+                .hasSize(3)
+                .anySatisfy(line -> assertThat(line).contains("\"code\":\"P101\""))
+                .allSatisfy(line -> assertThat(line).contains("\"available\":null"));
+    }
+
+    @Test
+    void shouldExportOnlyProductsUpdatedSinceWatermark() {
+        String body = given().queryParam("updated-since", Instant.now().plus(1, ChronoUnit.DAYS).toString())
+                .when()
+                .get("/api/products/export")
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    void shouldExportChangesMadeAfterPreviousExportFromItsWatermark() {
+        String watermark = given().when()
+                .get("/api/products/export")
+                .then()
+                .statusCode(200)
+                .header("X-Export-Watermark", notNullValue())
+                .extract()
+                .header("X-Export-Watermark");
+        assertThat(Instant.parse(watermark)).isBefore(Instant.now());
+
+        String code = UUID.randomUUID().toString();
+        given().contentType(ContentType.JSON)
+                .body(
+                        """
+                                {
+                                    "code": "%s",
+                                    "name": "Product %s",
+                                    "price": 10.0
+                                }
+                                """
+                                .formatted(code, code))
+                .when()
+                .post("/api/products")
+                .then()
+                .statusCode(201);
+
+        String body = given().queryParam("updated-since", watermark)
+                .when()
+                .get("/api/products/export")
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+
+        assertThat(body.lines()).anySatisfy(line -> assertThat(line).contains("\"code\":\"%s\"".formatted(code)));
+    }
+
+    @Test
+    void shouldEnrichExportWithAvailabilityOnRequest() {
+        String body = given().queryParam("availability", true)
+                .when()
+                .get("/api/products/export")
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+
+        assertThat(body.lines())
+                .anySatisfy(line -> assertThat(line).contains("\"code\":\"P101\"").contains("\"available\":true"))
+                .anySatisfy(line -> assertThat(line).contains("\"code\":\"P103\"").contains("\"available\":false"));
+    }
+}
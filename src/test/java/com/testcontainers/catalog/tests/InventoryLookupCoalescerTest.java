@@ -0,0 +1,92 @@
+package com.testcontainers.catalog.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.clients.inventory.InventoryLookupCoalescer;
+import com.testcontainers.catalog.clients.inventory.ProductInventory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.wiremock.integrations.testcontainers.WireMockContainer;
+
+// A generous window makes sure the concurrent lookups below end up in the same batch.
+@TestPropertySource(
+        properties = {"application.inventory-batch.window=200ms", "application.inventory-batch.max-size=50"})
+class InventoryLookupCoalescerTest extends BaseIntegrationTest {
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Autowired
+    InventoryLookupCoalescer inventoryLookupCoalescer;
+
+    @Autowired
+    WireMockContainer wiremockServer;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void resetRequestJournal() throws Exception {
+        httpClient.send(
+                HttpRequest.newBuilder(URI.create(wiremockServer.getBaseUrl() + "/__admin/requests"))
+                        .DELETE()
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    @Test
+    void shouldReturnEachCallerItsOwnInventory() throws Exception {
+        DistributionSummary fillRatio = meterRegistry.get("catalog.inventory.batch.fill-ratio").summary();
+        long batches = fillRatio.count();
+        double totalFillRatio = fillRatio.totalAmount();
+
+        CompletableFuture<ProductInventory> p101 = inventoryLookupCoalescer.getInventory("P101");
+        CompletableFuture<ProductInventory> p101Again = inventoryLookupCoalescer.getInventory("P101");
+        CompletableFuture<ProductInventory> p103 = inventoryLookupCoalescer.getInventory("P103");
+
+        assertThat(p101Again).isSameAs(p101);
+        assertThat(p101.join().quantity()).isEqualTo(25);
+        assertThat(p103.join().quantity()).isEqualTo(0);
+
+        assertThat(countRequests("/api/inventory\\?codes=P10[13]&codes=P10[13]")).isEqualTo(1);
+        assertThat(countRequests("/api/inventory/.*")).isZero();
+        assertThat(fillRatio.count()).isEqualTo(batches + 1);
+        assertThat(fillRatio.totalAmount()).isCloseTo(totalFillRatio + 2.0 / 50, within(1e-9));
+    }
+
+    @Test
+    void shouldFailLookupsMissingFromBulkResponse() throws Exception {
+        CompletableFuture<ProductInventory> p101 = inventoryLookupCoalescer.getInventory("P101");
+        CompletableFuture<ProductInventory> p102 = inventoryLookupCoalescer.getInventory("P102");
+
+        assertThat(p101.join().code()).isEqualTo("P101");
+        assertThat(p102).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class);
+
+        assertThat(countRequests("/api/inventory\\?codes=P10[12]&codes=P10[12]")).isEqualTo(1);
+        assertThat(countRequests("/api/inventory/.*")).isZero();
+    }
+
+    private int countRequests(String urlPattern) throws Exception {
+        String criteria = objectMapper.writeValueAsString(Map.of("method", "GET", "urlPattern", urlPattern));
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(wiremockServer.getBaseUrl() + "/__admin/requests/count"))
+                        .POST(HttpRequest.BodyPublishers.ofString(criteria))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).get("count").asInt();
+    }
+}
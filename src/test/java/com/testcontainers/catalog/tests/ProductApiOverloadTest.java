@@ -0,0 +1,45 @@
+package com.testcontainers.catalog.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+// The reads limit starts at 4 and adapts between 1 and 6, which leaves worker threads free to reject quickly.
+// Creates and image uploads get a single permit each so that the max-limits add up to the 8 worker threads.
+@TestPropertySource(
+        properties = {
+            "application.concurrency-limit.operations.reads.initial-limit=4",
+            "application.concurrency-limit.operations.reads.min-limit=1",
+            "application.concurrency-limit.operations.reads.max-limit=6",
+            "application.concurrency-limit.operations.reads.latency-threshold=400ms",
+            "application.concurrency-limit.operations.creates.initial-limit=1",
+            "application.concurrency-limit.operations.creates.min-limit=1",
+            "application.concurrency-limit.operations.creates.max-limit=1",
+            "application.concurrency-limit.operations.image-uploads.initial-limit=1",
+            "application.concurrency-limit.operations.image-uploads.min-limit=1",
+            "application.concurrency-limit.operations.image-uploads.max-limit=1"
+        })
+class ProductApiOverloadTest extends AbstractOverloadTest {
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void shedsExcessReadsAndKeepsP99Bounded() throws Exception {
+        LoadResult result = runOverload();
+
+        assertThat(result.rejected()).isPositive();
+        assertThat(result.rejectedWithoutRetryAfter()).isZero();
+        assertThat(result.acceptedLatencies()).isNotEmpty();
+        assertThat(result.p99()).isLessThan(P99_BOUND);
+        // the limit grew from its initial value while accepted requests stayed under the latency threshold
+        double readsLimit = meterRegistry
+                .get("catalog.concurrency.limit")
+                .tag("operation", "reads")
+                .gauge()
+                .value();
+        assertThat(readsLimit).isGreaterThan(4);
+    }
+}
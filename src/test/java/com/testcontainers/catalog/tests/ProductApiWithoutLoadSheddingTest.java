@@ -0,0 +1,25 @@
+package com.testcontainers.catalog.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+// Baseline for ProductApiOverloadTest: the same overload with load shedding turned off.
+@TestPropertySource(properties = {"application.concurrency-limit.enabled=false"})
+class ProductApiWithoutLoadSheddingTest extends AbstractOverloadTest {
+
+    @Test
+    void queuedReadsExceedTheP99Bound() throws Exception {
+        LoadResult result = runOverload();
+
+        assertThat(result.rejected()).isZero();
+        // This does not depend on how fast the host is: the delay is spent waiting on WireMock, so the server
+        // completes at most THREADS / INVENTORY_DELAY requests per second, and by Little's law the CLIENTS closed-loop
+        // clients then wait at least CLIENTS / THREADS * INVENTORY_DELAY = 750ms per request on average.
+        Duration meanLowerBound = INVENTORY_DELAY.multipliedBy(CLIENTS / THREADS);
+        assertThat(meanLowerBound).isGreaterThan(P99_BOUND);
+        assertThat(result.p99()).isGreaterThan(P99_BOUND);
+    }
+}
@@ -0,0 +1,179 @@
+package com.testcontainers.catalog.tests;
+
+import static io.restassured.RestAssured.given;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.testcontainers.catalog.domain.models.ProductChangedEvent;
+import com.testcontainers.catalog.events.ProductChangeBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.TestPropertySource;
+
+// A small subscriber buffer lets the slow consumer test overflow it quickly.
+@TestPropertySource(properties = {"application.product-changes.subscriber-buffer-size=16"})
+class ProductChangesStreamTest extends BaseIntegrationTest {
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Autowired
+    ProductChangeBroadcaster productChangeBroadcaster;
+
+    @Autowired
+    KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void waitForPartitionAssignment() {
+        // the broadcaster's consumer joins its group asynchronously on startup, and changes published before its
+        // partition is assigned only reach the stream after that rebalance, which can outlast the assertions below
+        ContainerTestUtils.waitForAssignment(
+                kafkaListenerEndpointRegistry.getListenerContainer("product-changes-broadcaster"), 1);
+    }
+
+    @Test
+    void shouldStreamCreatedProductsMatchingTheCodeFilter() throws Exception {
+        String code = UUID.randomUUID().toString();
+        Iterator<String> stream = openStream(code, null);
+
+        given().contentType(ContentType.JSON)
+                .body(
+                        """
+                                {
+                                    "code": "%s",
+                                    "name": "Product %s",
+                                    "price": 10.0
+                                }
+                                """
+                                .formatted(code, code))
+                .when()
+                .post("/api/products")
+                .then()
+                .statusCode(201);
+
+        assertThat(nextEvent(stream))
+                .contains("event:product-changed")
+                .anySatisfy(line -> assertThat(line).startsWith("id:"))
+                .anySatisfy(line -> assertThat(line).contains(code).contains("CREATED"));
+    }
+
+    @Test
+    void shouldReplayChangesAfterLastEventId() throws Exception {
+        String code = UUID.randomUUID().toString();
+        long offset = System.nanoTime();
+        productChangeBroadcaster.handle(new ProductChangedEvent(code, ProductChangedEvent.Type.CREATED), 99, offset);
+        productChangeBroadcaster.handle(
+                new ProductChangedEvent(code, ProductChangedEvent.Type.IMAGE_UPDATED), 99, offset + 1);
+
+        Iterator<String> stream = openStream(code, "99-" + offset);
+
+        assertThat(nextEvent(stream))
+                .contains("id:99-" + (offset + 1), "event:product-changed")
+                .anySatisfy(line -> assertThat(line).contains("IMAGE_UPDATED"));
+    }
+
+    @Test
+    void shouldSendResetWhenLastEventIdIsOutsideReplayWindow() throws Exception {
+        Iterator<String> stream = openStream(UUID.randomUUID().toString(), "unknown-event-id");
+
+        assertThat(nextEvent(stream)).contains("event:reset");
+    }
+
+    @Test
+    void shouldDropSlowSubscriberWithoutBlockingOtherSubscribers() throws Exception {
+        String code = UUID.randomUUID().toString();
+        Iterator<String> stream = openStream(code, null);
+        double dropped = droppedSubscribers();
+        double subscribers = subscribers();
+        // large enough that a few of them fill the socket buffers between the server and the slow client
+        ProductChangedEvent largeEvent =
+                new ProductChangedEvent("X".repeat(256 * 1024), ProductChangedEvent.Type.IMAGE_UPDATED);
+        long offset = System.nanoTime();
+
+        try (Socket socket = new Socket()) {
+            // a tiny receive buffer that is never read makes the server-side writer block in send()
+            socket.setReceiveBufferSize(1024);
+            socket.connect(new InetSocketAddress("localhost", RestAssured.port));
+            String request = "GET /api/products/changes HTTP/1.1\r\n"
+                    + "Host: localhost\r\nAccept: text/event-stream\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(UTF_8));
+            socket.getOutputStream().flush();
+            await().atMost(10, SECONDS).untilAsserted(() -> assertThat(subscribers())
+                    .isGreaterThan(subscribers));
+
+            // paced so that an unblocked writer drains each event before the next one, the subscriber buffer
+            // only overflows once the writer is stuck in send() holding the emitter lock
+            for (int i = 0; droppedSubscribers() == dropped && i < 500; i++) {
+                long start = System.nanoTime();
+                productChangeBroadcaster.handle(largeEvent, 97, offset++);
+                assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+                Thread.sleep(20);
+            }
+            assertThat(droppedSubscribers()).isEqualTo(dropped + 1);
+
+            // the slow writer is still blocked, yet the other subscribers keep receiving changes
+            ProductChangedEvent event = new ProductChangedEvent(code, ProductChangedEvent.Type.CREATED);
+            productChangeBroadcaster.handle(event, 97, offset);
+            assertThat(nextEvent(stream)).anySatisfy(line -> assertThat(line).contains(code));
+        }
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("catalog.product-changes.subscribers").gauge().value();
+    }
+
+    private double droppedSubscribers() {
+        return meterRegistry.counter("catalog.product-changes.dropped-subscribers").count();
+    }
+
+    private Iterator<String> openStream(String codes, String lastEventId) throws Exception {
+        URI uri = URI.create("http://localhost:%d/api/products/changes?codes=%s".formatted(RestAssured.port, codes));
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body().iterator();
+    }
+
+    // Returns the lines of the next event, skipping comments such as heartbeats.
+    private static List<String> nextEvent(Iterator<String> stream) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+                    List<String> event = new ArrayList<>();
+                    while (stream.hasNext()) {
+                        String line = stream.next();
+                        if (line.isEmpty() && !event.isEmpty()) {
+                            return event;
+                        }
+                        if (!line.isEmpty() && !line.startsWith(":")) {
+                            event.add(line);
+                        }
+                    }
+                    return event;
+                })
+                .get(30, SECONDS);
+    }
+}
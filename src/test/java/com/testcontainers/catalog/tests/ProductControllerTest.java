@@ -5,13 +5,17 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
 
 import com.testcontainers.catalog.domain.ProductService;
 import com.testcontainers.catalog.domain.models.Product;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.restassured.http.ContentType;
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -25,6 +29,9 @@ class ProductControllerTest extends com.testcontainers.catalog.tests.BaseIntegra
     @Autowired
     ProductService productService;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Test
     void createProductSuccessfully() {
         String code = UUID.randomUUID().toString();
@@ -65,7 +72,7 @@ class ProductControllerTest extends com.testcontainers.catalog.tests.BaseIntegra
                 .then()
                 .statusCode(200)
                 .body("status", endsWith("success"))
-                .body("filename", endsWith("P101.jpg"));
+                .body("filename", matchesPattern("[0-9a-f]{64}\\.jpg"));
 
         //  Assert that the product image URL is updated in the database after the image upload.
         await().pollInterval(Duration.ofSeconds(3)).atMost(10, SECONDS).untilAsserted(() -> {
@@ -75,6 +82,50 @@ class ProductControllerTest extends com.testcontainers.catalog.tests.BaseIntegra
         });
     }
 
+    @Test
+    void shouldStoreIdenticalImagesOnlyOnce() throws IOException {
+        String code = "P102";
+        File file = new ClassPathResource("P101.jpg").getFile();
+
+        String filename = given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .when()
+                .post("/api/products/{code}/image", code)
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("filename");
+
+        //  Wait for the first upload to reach the product before re-sending the same image.
+        await().pollInterval(Duration.ofSeconds(1)).atMost(10, SECONDS).untilAsserted(() -> assertThat(
+                        productService.getProductByCode(code).orElseThrow().imageUrl())
+                .contains(filename));
+        Instant updatedAt = productService.getProductByCode(code).orElseThrow().updatedAt();
+        double stored = uploads("stored");
+        double deduplicated = uploads("deduplicated");
+        double unchanged = meterRegistry.counter("catalog.product-images.unchanged").count();
+
+        given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .when()
+                .post("/api/products/{code}/image", code)
+                .then()
+                .statusCode(200)
+                .body("filename", equalTo(filename));
+
+        //  The second upload neither stores the object again nor publishes an image update.
+        assertThat(uploads("stored")).isEqualTo(stored);
+        assertThat(uploads("deduplicated")).isEqualTo(deduplicated + 1);
+        assertThat(meterRegistry.counter("catalog.product-images.unchanged").count()).isEqualTo(unchanged + 1);
+        await().during(Duration.ofSeconds(3)).atMost(5, SECONDS).untilAsserted(() -> assertThat(
+                        productService.getProductByCode(code).orElseThrow().updatedAt())
+                .isEqualTo(updatedAt));
+    }
+
+    private double uploads(String object) {
+        return meterRegistry.counter("catalog.product-images.uploads", "object", object).count();
+    }
+
     @Test
     void failsToCreateProductIfPayloadInvalid() {
         String code = UUID.randomUUID().toString();
@@ -0,0 +1,3 @@
+-- products whose inventory lookup is delayed by the SLOW-* stub in mocks-config.json
+insert into products(code, name, description, image, price)
+select 'SLOW-' || i, 'Slow product ' || i, null, null, 10.0 from generate_series(1, 24) i;